@@ -1,3 +1,6 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 /**
  * This class modifies the BinarySearchTree class to add AVL insertion and deletion to it. The only additions in this
  * class are the
@@ -9,6 +12,12 @@ public class AVLTree<T extends Comparable<T>> {
 
     private AVLNode<T> root;
 
+    /**
+     * Smallest number of elements each thread gets in lookupBatch. Below this the cost of handing work to other
+     * threads is more than the cost of just doing the lookups.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 4096;
+
     /**
      * This class represents the node of the tree. Each node contains data (of type 'T') and references to its left and
      * right nodes, and keeps track of the height of the tree at each node.
@@ -227,6 +236,144 @@ public class AVLTree<T extends Comparable<T>> {
         }
     }
 
+    /**
+     * This method checks if every element of a batch is in the tree. It uses lookupBatch below, so the whole batch is
+     * answered with a single walk of the tree instead of one full descent from the root per element.
+     * @param elements elements to be looked for
+     * @return true if all the elements are in the tree, false otherwise
+     */
+    public boolean containsAll(T[] elements) {
+        for (boolean found : lookupBatch(elements)) {
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method checks which elements of a batch are in the tree. The result at index 'i' is the same as calling
+     * contains(elements[i]).
+     *
+     * If the batch is not already in ascending order, we sort an array of indices into it (the batch itself is left
+     * untouched), so the results still come back in the caller's order. The sorted batch is then answered with the
+     * finger search below, which starts each lookup from where the previous one ended instead of from the root.
+     *
+     * Large batches are cut into independent sub-ranges of the sorted order and each sub-range is searched on its own
+     * thread with its own finger. The tree is only read, so this is safe as long as nothing inserts or deletes while
+     * the batch is running.
+     * @param elements elements to be looked for
+     * @return array where each entry is true or false depending on whether the matching element is in the tree
+     */
+    public boolean[] lookupBatch(T[] elements) {
+        int n = elements.length;
+        boolean[] found = new boolean[n];
+        if (root == null || n == 0) {
+            return found;
+        }
+
+        int[] order = sortedOrder(elements);
+
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors(), n / PARALLEL_CHUNK_SIZE);
+        if (chunks <= 1) {
+            fingerSearch(elements, order, 0, n, found);
+        }
+        else {
+            // each thread writes to its own indices of 'found', so no locking is needed
+            IntStream.range(0, chunks).parallel().forEach(c ->
+                    fingerSearch(elements, order, (int) ((long) n * c / chunks),
+                            (int) ((long) n * (c + 1) / chunks), found));
+        }
+        return found;
+    }
+
+    /**
+     * This method returns the indices of the elements in ascending order of the elements. If the elements are already
+     * in ascending order (which is the common case for our batches), no sorting is done.
+     * @param elements elements to be ordered
+     * @return indices of the elements in ascending order
+     */
+    private int[] sortedOrder(T[] elements) {
+        int n = elements.length;
+        int[] order = new int[n];
+        boolean sorted = true;
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            if (i > 0 && elements[i - 1].compareTo(elements[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> elements[a].compareTo(elements[b]));
+        for (int i = 0; i < n; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+
+    /**
+     * This method looks up elements[order[from]] to elements[order[to - 1]], which must be in ascending order, and
+     * stores the results in 'found'.
+     *
+     * We keep the search path from the root to the last node visited in 'path', together with the upper bound of
+     * each node's subtree in 'bound' (the nearest ancestor we went left at, or null if there is none). Since the
+     * elements come in ascending order, the next element is never below the subtree on top of the path, so we only
+     * need to pop nodes whose upper bound the element has reached and then carry on the normal descent from there.
+     * When consecutive elements are close together, usually only the last few levels of the path change.
+     *
+     * This bound is amortized over the sorted batch, not per lookup: m lookups cost O(m log(n/m)) in total instead of
+     * O(m log n). A single lookup can still cost O(log n), e.g. two neighbouring elements on either side of a node
+     * near the root, since the nodes have no parent or level links and we have to pop back to the common ancestor.
+     * @param elements elements to be looked for
+     * @param order indices of the elements in ascending order
+     * @param from first position in 'order' to look up
+     * @param to position in 'order' to stop at (exclusive)
+     * @param found array that the results are stored in
+     */
+    @SuppressWarnings("unchecked")
+    private void fingerSearch(T[] elements, int[] order, int from, int to, boolean[] found) {
+        // the height of the root is the longest path, so the stack never overflows
+        AVLNode<T>[] path = (AVLNode<T>[]) new AVLNode<?>[root.height];
+        AVLNode<T>[] bound = (AVLNode<T>[]) new AVLNode<?>[root.height];
+        int top = 0;
+        path[0] = root;
+        bound[0] = null;
+
+        for (int i = from; i < to; i++) {
+            T element = elements[order[i]];
+
+            // climb up until the element is inside the subtree on top of the path
+            while (top > 0 && bound[top] != null && element.compareTo(bound[top].data) >= 0) {
+                top--;
+            }
+
+            // descend from there as usual, pushing the nodes we visit
+            AVLNode<T> node = path[top];
+            while (true) {
+                int comparison = element.compareTo(node.data);
+                if (comparison == 0) {
+                    found[order[i]] = true;
+                    break;
+                }
+                AVLNode<T> next = comparison < 0 ? node.left : node.right;
+                if (next == null) {
+                    break;
+                }
+                path[top + 1] = next;
+                bound[top + 1] = comparison < 0 ? node : bound[top];
+                top++;
+                node = next;
+            }
+        }
+    }
+
     /**
      * This method uses the recursive helper method below to traverse through the tree and append the StringBuilder
      * instance to print the tree in pre-order.
@@ -0,0 +1,280 @@
+package PathFindingAlgorithms;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Warshall's algorithm answers reachability by building the full n x n reachability matrix, which takes O(n^2) memory
+ * even when we only ever ask whether one node can reach another. This class builds a 2-hop labeling index (pruned
+ * landmark labeling) from the same adjacency matrix instead.
+ *
+ * Every node 'u' gets two small sorted arrays of landmarks: 'out[u]', landmarks that 'u' can reach, and 'in[u]',
+ * landmarks that can reach 'u'. Then 'u' can reach 'v' exactly when 'out[u]' and 'in[v]' have a landmark in common, so
+ * a query is just a merge of two short sorted arrays. On most graphs the labels stay small, so the index is close to
+ * linear in the number of nodes.
+ *
+ * @author Mihir Phadke
+ * @version 1
+ */
+public class ReachabilityLabeling {
+
+    private final int[][] in;
+    private final int[][] out;
+
+    public static void main(String[] args) {
+        int[][] graph = {
+                //   A  B  C  D  E  F  G  H  I  J  K
+                /*A*/{0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                /*B*/{0, 0, 0, 0, 1, 1, 0, 0, 0, 0, 0},
+                /*C*/{0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0},
+                /*D*/{1, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0},
+                /*E*/{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0},
+                /*F*/{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0},
+                /*G*/{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 1},
+                /*H*/{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                /*I*/{0, 0, 0, 0, 1, 0, 0, 1, 0, 0, 0},
+                /*J*/{0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 1},
+                /*K*/{0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0}
+        };
+
+        ReachabilityLabeling index = new ReachabilityLabeling(graph);
+
+        for (int u = 0; u < graph.length; u++) {
+            for (int v = 0; v < graph.length; v++) {
+                System.out.print((index.reachable(u, v) ? 1 : 0) + " ");
+            }
+            System.out.println();
+        }
+
+        // Check the index against Warshall's reachability matrix on random small graphs of varying density. The
+        // diagonal is filled at random too, so the graphs include self loops as well as cycles and empty graphs.
+        Random random = new Random(281);
+        int checked = 0;
+        for (int round = 0; round < 2000; round++) {
+            int n = random.nextInt(26);
+            double density = random.nextDouble() * 0.4;
+            int[][] randomGraph = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    randomGraph[i][j] = random.nextDouble() < density ? 1 : 0;
+                }
+            }
+            if (!matchesWarshall(randomGraph)) {
+                throw new IllegalStateException("Reachability index does not match Warshall on graph " +
+                        Arrays.deepToString(randomGraph));
+            }
+            checked++;
+        }
+        if (!matchesWarshall(graph)) {
+            throw new IllegalStateException("Reachability index does not match Warshall on the example graph");
+        }
+        System.out.println("Matches Warshall on " + checked + " random graphs and the example graph");
+    }
+
+    /**
+     * This method builds the index for a graph and compares every pair of nodes with Warshall's reachability matrix.
+     * @param graph 2D array representation of the adjacency matrix of the graph
+     * @return true if the index agrees with Warshall on every pair of nodes, false otherwise
+     */
+    private static boolean matchesWarshall(int[][] graph) {
+        ReachabilityLabeling index = new ReachabilityLabeling(graph);
+        int[][] expected = Warshall.warshall(graph);
+        for (int u = 0; u < graph.length; u++) {
+            for (int v = 0; v < graph.length; v++) {
+                if (index.reachable(u, v) != (expected[u][v] == 1)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 1. Ordering:
+     * Convert the adjacency matrix into adjacency lists (forward and backward) and sort the nodes by degree, highest
+     * first. A node's position in this order is its rank, and the labels store ranks rather than node numbers. Well
+     * connected nodes lie on many paths, so labelling them first lets the later searches prune early.
+     *
+     * 2. The Labeling:
+     * For each node 'v' in rank order, do a BFS forwards from 'v'. For every node 'u' it reaches, if the labels built
+     * so far can already show that 'v' reaches 'u', we do not label 'u' or expand it any further (the landmark that
+     * proved it covers everything past 'u' too). Otherwise we add 'v' to 'in[u]'. Then we do the same thing backwards
+     * from 'v', adding 'v' to 'out[u]'.
+     *
+     * Since the landmarks are processed in increasing rank, every label array is built up already sorted.
+     *
+     * @param graph 2D array representation of the adjacency matrix of the graph
+     */
+    public ReachabilityLabeling(int[][] graph) {
+        int n = graph.length;
+        int[][] forward = adjacencyLists(graph, false);
+        int[][] backward = adjacencyLists(graph, true);
+
+        // Order the nodes by total degree, highest first
+        Integer[] byDegree = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byDegree[i] = i;
+        }
+        Arrays.sort(byDegree, (a, b) -> (forward[b].length + backward[b].length) -
+                (forward[a].length + backward[a].length));
+
+        in = new int[n][];
+        out = new int[n][];
+        int[] inSize = new int[n];
+        int[] outSize = new int[n];
+        for (int i = 0; i < n; i++) {
+            in[i] = new int[2];
+            out[i] = new int[2];
+        }
+
+        int[] queue = new int[n];
+        int[] visited = new int[n];
+        Arrays.fill(visited, -1);
+
+        for (int rank = 0; rank < n; rank++) {
+            int v = byDegree[rank];
+
+            // Forward BFS: label the nodes 'v' reaches
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = v;
+            visited[v] = 2 * rank;
+            while (head < tail) {
+                int u = queue[head++];
+                if (intersects(out[v], outSize[v], in[u], inSize[u])) {
+                    continue;
+                }
+                in[u] = append(in[u], inSize[u]++, rank);
+                for (int w : forward[u]) {
+                    if (visited[w] != 2 * rank) {
+                        visited[w] = 2 * rank;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+
+            // Backward BFS: label the nodes that reach 'v'
+            head = 0;
+            tail = 0;
+            queue[tail++] = v;
+            visited[v] = 2 * rank + 1;
+            while (head < tail) {
+                int u = queue[head++];
+                if (intersects(out[u], outSize[u], in[v], inSize[v])) {
+                    continue;
+                }
+                out[u] = append(out[u], outSize[u]++, rank);
+                for (int w : backward[u]) {
+                    if (visited[w] != 2 * rank + 1) {
+                        visited[w] = 2 * rank + 1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+
+        // Trim the labels down to their final size
+        for (int i = 0; i < n; i++) {
+            in[i] = Arrays.copyOf(in[i], inSize[i]);
+            out[i] = Arrays.copyOf(out[i], outSize[i]);
+        }
+    }
+
+    /**
+     * This method checks if node 'v' is reachable from node 'u'. Every node is reachable from itself, same as the
+     * diagonal of Warshall's reachability matrix.
+     * @param u source node
+     * @param v destination node
+     * @return true if there is a path from 'u' to 'v', false otherwise
+     */
+    public boolean reachable(int u, int v) {
+        return u == v || intersects(out[u], out[u].length, in[v], in[v].length);
+    }
+
+    /**
+     * This method returns the total number of landmarks stored in all the labels, which is the size of the index.
+     * @return number of label entries
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < in.length; i++) {
+            size += in[i].length + out[i].length;
+        }
+        return size;
+    }
+
+    /**
+     * This method checks whether two sorted arrays have a value in common by walking through both of them at once.
+     * @param a first sorted array
+     * @param aSize number of entries used in the first array
+     * @param b second sorted array
+     * @param bSize number of entries used in the second array
+     * @return true if the arrays share a value, false otherwise
+     */
+    private static boolean intersects(int[] a, int aSize, int[] b, int bSize) {
+        int i = 0;
+        int j = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] == b[j]) {
+                return true;
+            }
+            if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method adds a value to the end of a label, doubling the array if it is full.
+     * @param label label array
+     * @param size number of entries used in the label
+     * @param value value to be added
+     * @return label array with the value added
+     */
+    private static int[] append(int[] label, int size, int value) {
+        if (size == label.length) {
+            label = Arrays.copyOf(label, size * 2);
+        }
+        label[size] = value;
+        return label;
+    }
+
+    /**
+     * This method converts the adjacency matrix into adjacency lists. An entry 'graph[i][j] == 1' is an edge from
+     * 'i' to 'j'. Self loops are skipped since they never change reachability.
+     * @param graph 2D array representation of the adjacency matrix of the graph
+     * @param reverse true to build the lists of incoming edges instead of outgoing ones
+     * @return adjacency lists of the graph
+     */
+    private static int[][] adjacencyLists(int[][] graph, boolean reverse) {
+        int n = graph.length;
+        int[] degree = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && graph[i][j] == 1) {
+                    degree[reverse ? j : i]++;
+                }
+            }
+        }
+
+        int[][] lists = new int[n][];
+        for (int i = 0; i < n; i++) {
+            lists[i] = new int[degree[i]];
+            degree[i] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && graph[i][j] == 1) {
+                    if (reverse) {
+                        lists[j][degree[j]++] = i;
+                    } else {
+                        lists[i][degree[i]++] = j;
+                    }
+                }
+            }
+        }
+        return lists;
+    }
+}